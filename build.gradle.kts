@@ -1,6 +1,9 @@
+import org.springframework.boot.gradle.tasks.aot.ProcessAot
+
 plugins {
     java
     id("org.springframework.boot") version "3.2.2"
+    id("org.springframework.boot.aot") version "3.2.2"
     id("io.spring.dependency-management") version "1.1.4"
 }
 
@@ -29,10 +32,12 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-aop")
     implementation("io.github.resilience4j:resilience4j-spring-boot3:2.2.0")
+    implementation("org.apache.httpcomponents.client5:httpclient5")
     
     // Database
     implementation("org.postgresql:postgresql")
     implementation("com.zaxxer:HikariCP")
+    implementation("org.flywaydb:flyway-core")
     
     // Observability - Micrometer & Prometheus
     implementation("io.micrometer:micrometer-registry-prometheus")
@@ -61,3 +66,105 @@ dependencies {
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+springBoot {
+    // Exposes the release version to startup metrics
+    buildInfo()
+}
+
+// ============================================================
+// Fast-startup mode: Spring AOT + AppCDS
+// ============================================================
+// AOT bean definitions are frozen at build time, so the profile used here
+// must match the one the application is started with.
+val fastStartupProfile = "fast-startup"
+val fastStartupMainClass = "com.stafflabs.StaffLabsApplication"
+val fastStartupDir = layout.buildDirectory.dir("fast-startup")
+
+tasks.named<ProcessAot>("processAot") {
+    args("--spring.profiles.active=$fastStartupProfile")
+}
+
+// Application classes plus AOT-generated code, packaged as a plain jar
+// (CDS cannot archive classes loaded from directories or nested jars)
+val fastStartupJar by tasks.registering(Jar::class) {
+    group = "fast startup"
+    description = "Packages application and AOT-generated classes into a plain jar."
+    archiveClassifier.set("fast-startup")
+    from(sourceSets.main.get().output)
+    from(sourceSets["aot"].output)
+}
+
+val fastStartupLibs by tasks.registering(Sync::class) {
+    group = "fast startup"
+    description = "Assembles the flat classpath used for AppCDS training and runs."
+    from(fastStartupJar)
+    from(configurations.runtimeClasspath)
+    into(fastStartupDir.map { it.dir("lib") })
+}
+
+// CDS requires the exact same classpath order at training and run time
+val fastStartupClasspath = files(provider {
+    val libDir = fastStartupDir.get().dir("lib")
+    (listOf(fastStartupJar.get().archiveFileName.get()) +
+            configurations.runtimeClasspath.get().files.map { it.name })
+        .map { libDir.file(it).asFile }
+})
+
+val fastStartupJvmArgs = listOf(
+    "-Dspring.aot.enabled=true",
+    "-Dspring.profiles.active=$fastStartupProfile",
+)
+
+// Training run: starts the context up to refresh and dumps the loaded classes.
+// Needs the same PostgreSQL instance as a normal start (docker-compose up -d).
+val cdsArchive by tasks.registering(JavaExec::class) {
+    group = "fast startup"
+    description = "Generates the AppCDS archive from a training run of the AOT-processed application."
+    dependsOn(fastStartupLibs)
+    val archive = fastStartupDir.map { it.file("app.jsa") }
+    outputs.file(archive)
+    classpath = fastStartupClasspath
+    mainClass.set(fastStartupMainClass)
+    jvmArgs(fastStartupJvmArgs)
+    jvmArgs("-Dspring.context.exit=onRefresh")
+    jvmArgumentProviders.add(CommandLineArgumentProvider {
+        listOf("-XX:ArchiveClassesAtExit=${archive.get().asFile.absolutePath}")
+    })
+}
+
+val bootRunFastStartup by tasks.registering(JavaExec::class) {
+    group = "fast startup"
+    description = "Runs the application with AOT and the AppCDS archive."
+    dependsOn(cdsArchive)
+    classpath = fastStartupClasspath
+    mainClass.set(fastStartupMainClass)
+    jvmArgs(fastStartupJvmArgs)
+    jvmArgumentProviders.add(CommandLineArgumentProvider {
+        listOf(
+            "-XX:SharedArchiveFile=${fastStartupDir.get().file("app.jsa").asFile.absolutePath}",
+            "-Xshare:auto",
+        )
+    })
+}
+
+// ============================================================
+// In-JVM load harness (open model, HdrHistogram)
+// ============================================================
+// ./gradlew loadTest -Pload.scenario=mixed_load -Pload.rate=50 -Pload.duration=60
+val load: SourceSet by sourceSets.creating
+
+dependencies {
+    "loadImplementation"("org.hdrhistogram:HdrHistogram:2.1.12")
+}
+
+val loadTest by tasks.registering(JavaExec::class) {
+    group = "load testing"
+    description = "Replays the k6 scenarios at a fixed arrival rate against a running instance."
+    classpath = load.runtimeClasspath
+    mainClass.set("com.stafflabs.load.LoadHarness")
+    listOf("scenario", "rate", "duration", "base-url", "max-p95-ms", "max-p99-ms", "max-error-rate").forEach { key ->
+        providers.gradleProperty("load.$key").orNull?.let { args("--$key=$it") }
+    }
+    args("--out=${layout.buildDirectory.file("load/summary.json").get().asFile.absolutePath}")
+}
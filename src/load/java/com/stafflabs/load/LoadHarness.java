@@ -0,0 +1,115 @@
+package com.stafflabs.load;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * In-JVM replacement for the k6 scripts: replays the same scenarios at a fixed
+ * arrival rate and fails (exit code 1) when the k6 thresholds are breached.
+ *
+ * Usage: ./gradlew loadTest -Pload.scenario=mixed_load -Pload.rate=50 -Pload.duration=60
+ *
+ * Options (--key=value):
+ * scenario       cpu_saturation | db_saturation | mixed_load | external_stress | all (default all)
+ * rate           requests per second, defaults per scenario (0 < rate <= 100000)
+ * duration       seconds per scenario (default 60, must be > 0)
+ * base-url       default http://localhost:8080
+ * max-p95-ms     p95 response time threshold (default 5000, as in k6-script.js)
+ * max-p99-ms     p99 response time threshold (default 10000, as in k6-script.js)
+ * max-error-rate failed request threshold (default 0.15, as in k6-script.js)
+ * out            JSON summary file (optional)
+ */
+public final class LoadHarness {
+
+    private LoadHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+
+        String scenarioOption = options.getOrDefault("scenario", "all");
+        List<Scenario> scenarios = "all".equals(scenarioOption)
+                ? List.of(Scenario.values())
+                : List.of(Scenario.fromId(scenarioOption));
+        long durationSeconds = Long.parseLong(options.getOrDefault("duration", "60"));
+        if (durationSeconds <= 0) {
+            fail("duration must be > 0 seconds, got " + durationSeconds);
+        }
+        Duration duration = Duration.ofSeconds(durationSeconds);
+        Double rateOverride = options.containsKey("rate") ? Double.parseDouble(options.get("rate")) : null;
+        if (rateOverride != null && !isValidRate(rateOverride)) {
+            fail("rate must be > 0 and <= " + (long) OpenModelRunner.MAX_RATE + " req/s, got " + rateOverride);
+        }
+        String baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+        double maxP95Ms = Double.parseDouble(options.getOrDefault("max-p95-ms", "5000"));
+        double maxP99Ms = Double.parseDouble(options.getOrDefault("max-p99-ms", "10000"));
+        double maxErrorRate = Double.parseDouble(options.getOrDefault("max-error-rate", "0.15"));
+
+        OpenModelRunner runner = new OpenModelRunner(baseUrl, Duration.ofSeconds(30), 10_000);
+        List<ScenarioResult> results = new ArrayList<>();
+
+        for (Scenario scenario : scenarios) {
+            double rate = rateOverride != null ? rateOverride : scenario.defaultRate();
+            System.out.printf(Locale.ROOT, "Running %s at %.2f req/s for %d s against %s%n",
+                    scenario.id(), rate, duration.toSeconds(), baseUrl);
+            results.add(runner.run(scenario, rate, duration));
+        }
+
+        System.out.print(LoadReport.text(results));
+
+        if (options.containsKey("out")) {
+            Path out = Path.of(options.get("out"));
+            LoadReport.writeJson(results, out);
+            System.out.println("Summary written to " + out);
+        }
+
+        boolean breached = false;
+        for (ScenarioResult result : results) {
+            double p95Ms = result.responseTime().getValueAtPercentile(95.0) / 1000.0;
+            if (p95Ms > maxP95Ms) {
+                System.out.printf(Locale.ROOT, "THRESHOLD BREACHED: %s p95 %.2f ms > %.2f ms%n",
+                        result.scenario().id(), p95Ms, maxP95Ms);
+                breached = true;
+            }
+            double p99Ms = result.responseTime().getValueAtPercentile(99.0) / 1000.0;
+            if (p99Ms > maxP99Ms) {
+                System.out.printf(Locale.ROOT, "THRESHOLD BREACHED: %s p99 %.2f ms > %.2f ms%n",
+                        result.scenario().id(), p99Ms, maxP99Ms);
+                breached = true;
+            }
+            if (result.errorRate() > maxErrorRate) {
+                System.out.printf(Locale.ROOT, "THRESHOLD BREACHED: %s error rate %.4f > %.4f%n",
+                        result.scenario().id(), result.errorRate(), maxErrorRate);
+                breached = true;
+            }
+        }
+
+        System.exit(breached ? 1 : 0);
+    }
+
+    private static boolean isValidRate(double rate) {
+        return rate > 0 && rate <= OpenModelRunner.MAX_RATE;
+    }
+
+    private static void fail(String message) {
+        System.err.println("Invalid option: " + message);
+        System.exit(2);
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value, got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
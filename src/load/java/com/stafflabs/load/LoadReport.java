@@ -0,0 +1,96 @@
+package com.stafflabs.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Text and JSON summaries of a load run, laid out like the k6 handleSummary
+ * output so the numbers can be compared side by side.
+ */
+public final class LoadReport {
+
+    private static final double[] PERCENTILES = { 50.0, 90.0, 99.0, 99.9 };
+
+    private LoadReport() {
+    }
+
+    public static String text(List<ScenarioResult> results) {
+        StringBuilder out = new StringBuilder("\n");
+        for (ScenarioResult result : results) {
+            out.append(String.format(Locale.ROOT, "================== %s ==================%n",
+                    result.scenario().id()));
+            out.append(String.format(Locale.ROOT, "Total requests: %d%n", result.requests()));
+            out.append(String.format(Locale.ROOT, "Request rate: %.2f req/s (target %.2f)%n",
+                    result.throughput(), result.targetRate()));
+            out.append(String.format(Locale.ROOT, "Failed requests: %.4f%n", result.errorRate()));
+            out.append("\nLatency (ms)         response  service\n");
+            for (double p : PERCENTILES) {
+                out.append(String.format(Locale.ROOT, "  p%-6s %18.2f %8.2f%n", format(p),
+                        millis(result.responseTime(), p), millis(result.serviceTime(), p)));
+            }
+            out.append(String.format(Locale.ROOT, "  max     %18.2f %8.2f%n",
+                    result.responseTime().getMaxValue() / 1000.0, result.serviceTime().getMaxValue() / 1000.0));
+            out.append("  (response = from scheduled start, corrected for coordinated omission;\n");
+            out.append("   dropped requests count as scheduled start -> end of run)\n");
+            out.append("\nOutcomes:\n");
+            result.outcomes().forEach((outcome, count) -> out.append(String.format(Locale.ROOT, "  %-24s %d%n",
+                    outcome, count)));
+            out.append("\n");
+        }
+        return out.toString();
+    }
+
+    public static void writeJson(List<ScenarioResult> results, Path file) throws IOException {
+        String json = results.stream()
+                .map(LoadReport::json)
+                .collect(Collectors.joining(",\n", "[\n", "\n]\n"));
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.writeString(file, json);
+    }
+
+    private static String json(ScenarioResult result) {
+        String outcomes = result.outcomes().entrySet().stream()
+                .map(e -> "\"" + e.getKey() + "\": " + e.getValue())
+                .collect(Collectors.joining(", ", "{", "}"));
+        return String.format(Locale.ROOT, """
+                  {
+                    "scenario": "%s",
+                    "requests": %d,
+                    "targetRate": %.2f,
+                    "throughput": %.2f,
+                    "errorRate": %.4f,
+                    "responseTimeMs": %s,
+                    "serviceTimeMs": %s,
+                    "outcomes": %s
+                  }""",
+                result.scenario().id(), result.requests(), result.targetRate(), result.throughput(),
+                result.errorRate(), percentiles(result.responseTime()), percentiles(result.serviceTime()), outcomes);
+    }
+
+    private static String percentiles(Histogram histogram) {
+        StringBuilder out = new StringBuilder("{");
+        for (double p : PERCENTILES) {
+            out.append(String.format(Locale.ROOT, "\"p%s\": %.2f, ", format(p), millis(histogram, p)));
+        }
+        out.append(String.format(Locale.ROOT, "\"max\": %.2f}", histogram.getMaxValue() / 1000.0));
+        return out.toString();
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private static String format(double percentile) {
+        return percentile == Math.rint(percentile)
+                ? String.valueOf((int) percentile)
+                : String.valueOf(percentile);
+    }
+}
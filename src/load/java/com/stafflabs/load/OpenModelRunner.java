@@ -0,0 +1,151 @@
+package com.stafflabs.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Fixed arrival-rate (open model) request generator.
+ *
+ * Request i is scheduled at start + i * interval regardless of how many
+ * earlier requests are still outstanding; each is sent from its own virtual
+ * thread. Latency is measured from the scheduled time, so a stalled server
+ * cannot hide queueing by slowing the generator down (coordinated omission).
+ */
+public class OpenModelRunner {
+
+    /**
+     * Highest supported arrival rate (10 microseconds between requests).
+     */
+    public static final double MAX_RATE = 100_000;
+
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+    private final Semaphore inFlight;
+
+    public OpenModelRunner(String baseUrl, Duration requestTimeout, int maxInFlight) {
+        this.baseUrl = baseUrl;
+        this.requestTimeout = requestTimeout;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    public ScenarioResult run(Scenario scenario, double ratePerSecond, Duration duration) {
+        // A zero interval or overflowing schedule would send unpaced and never stop
+        if (!(ratePerSecond > 0 && ratePerSecond <= MAX_RATE)) {
+            throw new IllegalArgumentException("Rate must be > 0 and <= " + MAX_RATE + " req/s: " + ratePerSecond);
+        }
+        if (duration.isZero() || duration.isNegative()) {
+            throw new IllegalArgumentException("Duration must be positive: " + duration);
+        }
+
+        ScenarioResult result = new ScenarioResult(scenario, ratePerSecond);
+        sendControl(scenario.setup());
+
+        long intervalNanos = (long) (1_000_000_000L / ratePerSecond);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        Random random = new Random();
+        List<Dropped> dropped = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0;; i++) {
+                long intendedStart = start + i * intervalNanos;
+                if (intendedStart >= end) {
+                    break;
+                }
+
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                Scenario.Request request = scenario.nextRequest(random);
+
+                // Bound memory if the server stops responding entirely
+                if (!inFlight.tryAcquire()) {
+                    dropped.add(new Dropped(request.endpoint(), intendedStart));
+                    continue;
+                }
+
+                executor.submit(() -> {
+                    try {
+                        send(scenario, request, intendedStart, result);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        } // close() waits for outstanding requests
+
+        long runEnd = System.nanoTime();
+        dropped.forEach(d -> result.recordDropped(d.endpoint(), d.intendedStart(), runEnd));
+        result.finish(runEnd - start);
+        sendControl(scenario.teardown());
+        return result;
+    }
+
+    private void send(Scenario scenario, Scenario.Request request, long intendedStart, ScenarioResult result) {
+        long sent = System.nanoTime();
+        try {
+            HttpResponse<Void> response = httpClient.send(toHttpRequest(request),
+                    HttpResponse.BodyHandlers.discarding());
+            int status = response.statusCode();
+            result.recordResponse(request.endpoint(), String.valueOf(status), scenario.isSuccess(request, status),
+                    intendedStart, sent, System.nanoTime());
+        } catch (HttpTimeoutException e) {
+            result.recordResponse(request.endpoint(), "timeout", false, intendedStart, sent, System.nanoTime());
+        } catch (IOException e) {
+            result.recordResponse(request.endpoint(), "io_error", false, intendedStart, sent, System.nanoTime());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void sendControl(Scenario.Request request) {
+        if (request == null) {
+            return;
+        }
+        try {
+            HttpResponse<String> response = httpClient.send(toHttpRequest(request),
+                    HttpResponse.BodyHandlers.ofString());
+            System.out.printf("%s %s -> %d%n", request.endpoint(), request.path(), response.statusCode());
+        } catch (IOException e) {
+            System.err.printf("%s %s failed: %s%n", request.endpoint(), request.path(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Dropped(String endpoint, long intendedStart) {
+    }
+
+    private HttpRequest toHttpRequest(Scenario.Request request) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + request.path()))
+                .timeout(requestTimeout);
+        if (request.body() != null) {
+            builder.header("Content-Type", "application/json")
+                    .method(request.method(), HttpRequest.BodyPublishers.ofString(request.body()));
+        } else {
+            builder.method(request.method(), HttpRequest.BodyPublishers.noBody());
+        }
+        return builder.build();
+    }
+}
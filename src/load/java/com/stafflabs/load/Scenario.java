@@ -0,0 +1,122 @@
+package com.stafflabs.load;
+
+import java.util.Random;
+
+/**
+ * Load scenarios mirroring load/k6-script.js and load/k6-week2-stress.js.
+ * Default rates approximate the throughput the k6 virtual users produced
+ * (VUs / (think time + latency)), but are held fixed: arrivals do not slow
+ * down when the server does.
+ */
+public enum Scenario {
+
+    CPU_SATURATION("cpu_saturation", 5) {
+        private final int[] durations = { 50, 100, 200, 500 };
+
+        @Override
+        Request nextRequest(Random random) {
+            return Request.get("cpu", "/api/cpu?ms=" + durations[random.nextInt(durations.length)]);
+        }
+    },
+
+    DB_SATURATION("db_saturation", 4) {
+        @Override
+        Request nextRequest(Random random) {
+            return Request.get("db", "/api/db/search");
+        }
+    },
+
+    MIXED_LOAD("mixed_load", 50) {
+        @Override
+        Request nextRequest(Random random) {
+            double rand = random.nextDouble();
+            // 40% CPU, 30% external, 30% DB
+            if (rand < 0.4) {
+                return Request.get("cpu", "/api/cpu?ms=" + (random.nextInt(200) + 50));
+            } else if (rand < 0.7) {
+                return Request.get("external", "/api/external");
+            }
+            return Request.get("db", "/api/db/search");
+        }
+
+        @Override
+        boolean isSuccess(Request request, int status) {
+            // 503 from /api/external is expected in the mixed scenario
+            return status == 200 || ("external".equals(request.endpoint()) && status == 503);
+        }
+    },
+
+    EXTERNAL_STRESS("external_stress", 10) {
+        @Override
+        Request nextRequest(Random random) {
+            return Request.get("external", "/api/external");
+        }
+
+        @Override
+        Request setup() {
+            // High failure rate to trip the circuit breaker
+            return Request.post("setup", "/admin/mock/configure", "{\"failureRate\":0.6,\"delayMs\":100}");
+        }
+
+        @Override
+        Request teardown() {
+            return Request.post("teardown", "/admin/mock/configure", "{\"failureRate\":0.1,\"delayMs\":50}");
+        }
+    };
+
+    private final String id;
+    private final double defaultRate;
+
+    Scenario(String id, double defaultRate) {
+        this.id = id;
+        this.defaultRate = defaultRate;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public double defaultRate() {
+        return defaultRate;
+    }
+
+    abstract Request nextRequest(Random random);
+
+    boolean isSuccess(Request request, int status) {
+        return status == 200;
+    }
+
+    /**
+     * Request sent once before the scenario starts, or null.
+     */
+    Request setup() {
+        return null;
+    }
+
+    /**
+     * Request sent once after the scenario ends, or null.
+     */
+    Request teardown() {
+        return null;
+    }
+
+    public static Scenario fromId(String id) {
+        for (Scenario scenario : values()) {
+            if (scenario.id.equals(id)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scenario: " + id);
+    }
+
+    record Request(String endpoint, String method, String path, String body) {
+
+        static Request get(String endpoint, String path) {
+            return new Request(endpoint, "GET", path, null);
+        }
+
+        static Request post(String endpoint, String path, String body) {
+            return new Request(endpoint, "POST", path, body);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.stafflabs.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and outcome counts for one scenario run.
+ *
+ * Two histograms are kept: response time is measured from the request's
+ * intended start on the fixed arrival schedule (coordinated-omission
+ * corrected), service time from when it was actually sent. The gap between
+ * them is time spent queueing behind a slow server or a late generator.
+ */
+public class ScenarioResult {
+
+    // 1 hour in microseconds, 3 significant digits
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+
+    private final Scenario scenario;
+    private final double targetRate;
+    private final Histogram responseTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Histogram serviceTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private long elapsedNanos;
+
+    public ScenarioResult(Scenario scenario, double targetRate) {
+        this.scenario = scenario;
+        this.targetRate = targetRate;
+    }
+
+    void recordResponse(String endpoint, String outcome, boolean success, long intendedStartNanos,
+            long sentNanos, long completedNanos) {
+        responseTime.recordValue(toMicros(completedNanos - intendedStartNanos));
+        serviceTime.recordValue(toMicros(completedNanos - sentNanos));
+        recordOutcome(endpoint, outcome, success);
+    }
+
+    /**
+     * A request the generator never sent because too many were in flight. It
+     * was scheduled, so its response time counts as at least the rest of the
+     * run; leaving it out would hide exactly the stalls this harness is for.
+     */
+    void recordDropped(String endpoint, long intendedStartNanos, long runEndNanos) {
+        responseTime.recordValue(toMicros(runEndNanos - intendedStartNanos));
+        recordOutcome(endpoint, "dropped", false);
+    }
+
+    void recordOutcome(String endpoint, String outcome, boolean success) {
+        requests.increment();
+        if (!success) {
+            failures.increment();
+        }
+        outcomes.computeIfAbsent(endpoint + ":" + outcome, k -> new LongAdder()).increment();
+    }
+
+    void finish(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(nanos), 1), HIGHEST_TRACKABLE_MICROS);
+    }
+
+    public Scenario scenario() {
+        return scenario;
+    }
+
+    public double targetRate() {
+        return targetRate;
+    }
+
+    public long requests() {
+        return requests.sum();
+    }
+
+    public double throughput() {
+        return elapsedNanos == 0 ? 0 : requests.sum() / (elapsedNanos / 1e9);
+    }
+
+    public double errorRate() {
+        long total = requests.sum();
+        return total == 0 ? 0 : (double) failures.sum() / total;
+    }
+
+    public Histogram responseTime() {
+        return responseTime;
+    }
+
+    public Histogram serviceTime() {
+        return serviceTime;
+    }
+
+    public Map<String, Long> outcomes() {
+        Map<String, Long> sorted = new TreeMap<>();
+        outcomes.forEach((key, count) -> sorted.put(key, count.sum()));
+        return sorted;
+    }
+}
@@ -2,10 +2,20 @@ package com.stafflabs;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class StaffLabsApplication {
+
+    // Enough for every startup step of this app; later steps are dropped if exceeded
+    private static final int STARTUP_STEP_CAPACITY = 4096;
+
     public static void main(String[] args) {
-        SpringApplication.run(StaffLabsApplication.class, args);
+        SpringApplication application = new SpringApplication(StaffLabsApplication.class);
+        // Records the startup-phase timeline for /actuator/startup and StartupMetricsConfig
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+        application.run(args);
     }
 }
@@ -0,0 +1,65 @@
+package com.stafflabs.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+/**
+ * Connection-pooled HTTP client used for the external dependency.
+ */
+@Configuration
+public class ExternalHttpClientConfig {
+
+    @Bean
+    public InstrumentedConnectionManager externalConnectionManager(ExternalServiceConfig externalServiceConfig,
+            MeterRegistry meterRegistry) {
+        ExternalServiceConfig.Pool pool = externalServiceConfig.getPool();
+
+        InstrumentedConnectionManager connectionManager = new InstrumentedConnectionManager(meterRegistry);
+        connectionManager.setMaxTotal(pool.getMaxTotal());
+        connectionManager.setDefaultMaxPerRoute(pool.getMaxPerRoute());
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(pool.getConnectTimeoutMs()))
+                .setSocketTimeout(Timeout.ofMilliseconds(pool.getReadTimeoutMs()))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build());
+
+        // Pool gauges: leased / available / pending / max per pool
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "externalService")
+                .bindTo(meterRegistry);
+
+        return connectionManager;
+    }
+
+    @Bean
+    public CloseableHttpClient externalHttpClient(InstrumentedConnectionManager externalConnectionManager,
+            ExternalServiceConfig externalServiceConfig) {
+        ExternalServiceConfig.Pool pool = externalServiceConfig.getPool();
+
+        return HttpClients.custom()
+                .setConnectionManager(externalConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(pool.getLeaseTimeoutMs()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(pool.getReadTimeoutMs()))
+                        .build())
+                // Keep connections alive for a fixed period regardless of server hints
+                .setKeepAliveStrategy((response, context) -> TimeValue.ofMilliseconds(pool.getKeepAliveMs()))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(pool.getIdleEvictMs()))
+                .build();
+    }
+
+    @Bean
+    public ClientHttpRequestFactory externalRequestFactory(CloseableHttpClient externalHttpClient) {
+        return new HttpComponentsClientHttpRequestFactory(externalHttpClient);
+    }
+}
@@ -0,0 +1,64 @@
+package com.stafflabs.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the external dependency called by ExternalService.
+ * In SIMULATED mode the call only sleeps and throws in-process; in HTTP mode it
+ * goes over the network through a pooled client, by default to the embedded
+ * stand-in server driven by MockConfig.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.external-service")
+@Data
+public class ExternalServiceConfig {
+
+    public enum Mode {
+        SIMULATED, HTTP
+    }
+
+    private String url = "http://localhost:8081/mock";
+
+    private Mode mode = Mode.SIMULATED;
+
+    private final Pool pool = new Pool();
+
+    private final StandIn standIn = new StandIn();
+
+    @Data
+    public static class Pool {
+
+        private int maxTotal = 20;
+
+        private int maxPerRoute = 10;
+
+        private long connectTimeoutMs = 1000;
+
+        /**
+         * Socket read timeout; keep it above slowCallDurationThreshold so the
+         * circuit breaker sees slow calls before they become timeouts.
+         */
+        private long readTimeoutMs = 3000;
+
+        /**
+         * Maximum time to wait for a free pooled connection.
+         */
+        private long leaseTimeoutMs = 500;
+
+        private long keepAliveMs = 30000;
+
+        private long idleEvictMs = 60000;
+    }
+
+    @Data
+    public static class StandIn {
+
+        /**
+         * Start the embedded stand-in server when mode is HTTP. It listens on
+         * the host, port and path of the external-service url.
+         */
+        private boolean enabled = true;
+    }
+}
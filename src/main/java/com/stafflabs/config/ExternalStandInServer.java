@@ -0,0 +1,128 @@
+package com.stafflabs.config;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Embedded stand-in for the external dependency, used in HTTP mode so calls pay
+ * real network costs (connect, keep-alive, socket reads). Latency and failure
+ * behavior come from MockConfig, so /admin/mock/configure drives it at runtime.
+ *
+ * The start decision is made at runtime rather than with a conditional bean
+ * so the AOT-processed fast-startup build still honors the property.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExternalStandInServer implements SmartLifecycle {
+
+    private final ExternalServiceConfig externalServiceConfig;
+    private final MockConfig mockConfig;
+    private final MeterRegistry meterRegistry;
+
+    private volatile HttpServer server;
+
+    @Override
+    public void start() {
+        if (externalServiceConfig.getMode() != ExternalServiceConfig.Mode.HTTP
+                || !externalServiceConfig.getStandIn().isEnabled()) {
+            return;
+        }
+
+        // Serve exactly what the client calls, so the two can't drift apart
+        URI url = URI.create(externalServiceConfig.getUrl());
+        if (!"http".equals(url.getScheme()) || !isLocalHost(url.getHost())) {
+            throw new IllegalStateException("Stand-in server can only serve a local http URL, but "
+                    + "app.external-service.url is " + url
+                    + "; set app.external-service.stand-in.enabled=false to call it directly");
+        }
+        int port = url.getPort() != -1 ? url.getPort() : 80;
+        String path = url.getPath();
+        try {
+            HttpServer httpServer = HttpServer.create(new InetSocketAddress(url.getHost(), port), 0);
+            httpServer.createContext(path.isEmpty() ? "/" : path, this::handle);
+            httpServer.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+            httpServer.start();
+            server = httpServer;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start external stand-in server on port " + port, e);
+        }
+
+        log.info("External stand-in server listening on localhost:{}{}", port, path);
+    }
+
+    private static boolean isLocalHost(String host) {
+        return "localhost".equals(host) || "127.0.0.1".equals(host) || "[::1]".equals(host);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            int jitterMs = mockConfig.getDelayMs();
+            double failureRate = mockConfig.getFailureRate();
+
+            // Same jitter and failure model as the in-process simulation
+            if (jitterMs > 0) {
+                Thread.sleep(ThreadLocalRandom.current().nextInt(0, jitterMs * 2));
+            }
+
+            if (ThreadLocalRandom.current().nextDouble() < failureRate) {
+                meterRegistry.counter("external.standin.requests", "outcome", "failure").increment();
+                respond(exchange, 503, "External service unavailable (stand-in failure)");
+                return;
+            }
+
+            meterRegistry.counter("external.standin.requests", "outcome", "success").increment();
+            respond(exchange, 200, "External service response: " + System.currentTimeMillis());
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void stop() {
+        HttpServer httpServer = server;
+        if (httpServer != null) {
+            httpServer.stop(0);
+            server = null;
+            log.info("External stand-in server stopped");
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Start before and stop after the web server, so in-flight requests never
+     * call a stand-in that is not listening.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
@@ -0,0 +1,30 @@
+package com.stafflabs.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for group-commit order ingestion (POST /api/orders).
+ * A batch is flushed when it reaches max-batch-size or when max-delay-ms has
+ * passed since its first order arrived, whichever comes first.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.ingest")
+@Data
+public class IngestConfig {
+
+    private int maxBatchSize = 100;
+
+    private long maxDelayMs = 5;
+
+    /**
+     * Orders waiting to be flushed; callers are rejected beyond this.
+     */
+    private int queueCapacity = 10000;
+
+    /**
+     * Upper bound on how long a caller waits for its batch to commit.
+     */
+    private long commitTimeoutMs = 5000;
+}
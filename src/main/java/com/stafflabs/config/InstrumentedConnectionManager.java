@@ -0,0 +1,75 @@
+package com.stafflabs.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Pooling connection manager that records how long callers wait for a pooled
+ * connection, whether the connection was reused, and TCP connect time.
+ */
+public class InstrumentedConnectionManager extends PoolingHttpClientConnectionManager {
+
+    private final Timer leaseTimer;
+    private final Timer connectTimer;
+    private final MeterRegistry meterRegistry;
+
+    public InstrumentedConnectionManager(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.leaseTimer = Timer.builder("external.http.pool.lease")
+                .description("Time waiting to lease a pooled connection")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.connectTimer = Timer.builder("external.http.connect")
+                .description("TCP connect time for new connections")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+        LeaseRequest delegate = super.lease(id, route, requestTimeout, state);
+        return new LeaseRequest() {
+            @Override
+            public ConnectionEndpoint get(Timeout timeout)
+                    throws InterruptedException, ExecutionException, TimeoutException {
+                Timer.Sample sample = Timer.start(meterRegistry);
+                ConnectionEndpoint endpoint;
+                try {
+                    endpoint = delegate.get(timeout);
+                } finally {
+                    sample.stop(leaseTimer);
+                }
+                // A leased endpoint that is already connected came back from the pool
+                meterRegistry.counter("external.http.connections",
+                        "reused", String.valueOf(endpoint.isConnected())).increment();
+                return endpoint;
+            }
+
+            @Override
+            public boolean cancel() {
+                return delegate.cancel();
+            }
+        };
+    }
+
+    @Override
+    public void connect(ConnectionEndpoint endpoint, TimeValue timeout, HttpContext context) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            super.connect(endpoint, timeout, context);
+        } finally {
+            sample.stop(connectTimer);
+        }
+    }
+}
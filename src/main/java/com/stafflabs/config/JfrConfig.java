@@ -0,0 +1,46 @@
+package com.stafflabs.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for in-process JDK Flight Recorder streaming and on-demand
+ * incident recordings. Thresholds and sampling rates keep overhead bounded:
+ * only events above the threshold are recorded at all.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.jfr")
+@Data
+public class JfrConfig {
+
+    /**
+     * Stream selected JFR events into Micrometer meters.
+     */
+    private boolean streamingEnabled = true;
+
+    /**
+     * Minimum monitor-enter wait reported as lock contention.
+     */
+    private long lockContentionThresholdMs = 10;
+
+    /**
+     * Minimum virtual-thread pinning duration reported.
+     */
+    private long pinnedThresholdMs = 20;
+
+    /**
+     * Minimum safepoint duration reported.
+     */
+    private long safepointThresholdMs = 5;
+
+    /**
+     * Upper bound on sampled allocation events per second.
+     */
+    private String allocationSampleRate = "100/s";
+
+    /**
+     * Longest incident recording that can be requested.
+     */
+    private int maxRecordingSeconds = 300;
+}
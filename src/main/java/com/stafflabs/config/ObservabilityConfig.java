@@ -3,14 +3,16 @@ package com.stafflabs.config;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
 @Configuration
 public class ObservabilityConfig {
 
     @Bean
-    public RestClient restClient(RestClient.Builder builder) {
+    public RestClient restClient(RestClient.Builder builder, ClientHttpRequestFactory externalRequestFactory) {
         return builder
+                .requestFactory(externalRequestFactory)
                 .build();
     }
 }
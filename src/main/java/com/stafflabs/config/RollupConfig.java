@@ -0,0 +1,30 @@
+package com.stafflabs.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the daily order rollup refresh.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.rollup")
+@Data
+public class RollupConfig {
+
+    /**
+     * When false, the scheduled refresh is skipped (manual and post-seed
+     * refreshes still run).
+     */
+    private boolean scheduledRefreshEnabled = true;
+
+    /**
+     * Delay between scheduled refreshes, in milliseconds.
+     */
+    private long refreshIntervalMs = 60000;
+
+    /**
+     * Maximum number of days a single time-series query may span.
+     */
+    private int maxRangeDays = 731;
+}
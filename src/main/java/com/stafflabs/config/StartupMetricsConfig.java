@@ -0,0 +1,106 @@
+package com.stafflabs.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.boot.info.BuildProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Exports the startup-phase timeline and time-to-first-request as metrics,
+ * tagged with the release version so startup cost can be compared across
+ * releases.
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class StartupMetricsConfig {
+
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<BuildProperties> buildProperties;
+
+    /**
+     * Folds the buffered {@code ApplicationStartup} steps into one timer per
+     * step name (e.g. spring.beans.instantiate), keeping tag cardinality bounded.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void publishStartupTimeline(ApplicationReadyEvent event) {
+        ApplicationStartup startup = event.getApplicationContext().getApplicationStartup();
+        if (!(startup instanceof BufferingApplicationStartup buffering)) {
+            log.debug("Startup timeline not buffered, skipping startup phase metrics");
+            return;
+        }
+
+        StartupTimeline timeline = buffering.getBufferedTimeline();
+        for (StartupTimeline.TimelineEvent step : timeline.getEvents()) {
+            Timer.builder("application.startup.phase")
+                    .description("Time spent in each Spring startup step")
+                    .tag("phase", step.getStartupStep().getName())
+                    .tag("version", version())
+                    .register(meterRegistry)
+                    .record(step.getDuration());
+        }
+
+        log.info("Published {} startup steps as metrics (version={})", timeline.getEvents().size(), version());
+    }
+
+    /**
+     * Records JVM start to first completed request once, which is what
+     * autoscaling actually waits for. Actuator endpoints are skipped: the
+     * first request is usually a health probe, which would only measure the
+     * probe schedule.
+     */
+    @Bean
+    public OncePerRequestFilter firstRequestTimingFilter() {
+        AtomicBoolean recorded = new AtomicBoolean();
+        return new OncePerRequestFilter() {
+            @Override
+            protected boolean shouldNotFilter(HttpServletRequest request) {
+                return recorded.get() || request.getRequestURI()
+                        .startsWith(request.getContextPath() + "/actuator");
+            }
+
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                    FilterChain filterChain) throws ServletException, IOException {
+                try {
+                    filterChain.doFilter(request, response);
+                } finally {
+                    if (!recorded.get() && recorded.compareAndSet(false, true)) {
+                        long elapsedMs = System.currentTimeMillis()
+                                - ManagementFactory.getRuntimeMXBean().getStartTime();
+                        TimeGauge.builder("application.first.request.time", () -> elapsedMs, TimeUnit.MILLISECONDS)
+                                .description("Time from JVM start until the first request completed")
+                                .tag("version", version())
+                                .register(meterRegistry);
+                        log.info("First request completed {} ms after JVM start", elapsedMs);
+                    }
+                }
+            }
+        };
+    }
+
+    private String version() {
+        BuildProperties properties = buildProperties.getIfAvailable();
+        return properties != null ? properties.getVersion() : "unknown";
+    }
+}
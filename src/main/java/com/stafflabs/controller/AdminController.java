@@ -1,5 +1,6 @@
 package com.stafflabs.controller;
 
+import com.stafflabs.service.OrderRollupService;
 import com.stafflabs.service.OrderService;
 import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +18,7 @@ import java.util.Map;
 public class AdminController {
 
     private final OrderService orderService;
+    private final OrderRollupService orderRollupService;
     private final com.stafflabs.config.MockConfig mockConfig;
 
     /**
@@ -39,11 +41,40 @@ public class AdminController {
         long totalOrders = orderService.seedOrders(count);
         long duration = System.currentTimeMillis() - startTime;
 
+        // The seed marked its days dirty in its own transaction; fold them in now
+        // so dashboards see them immediately (a concurrent refresh leaves them queued)
+        int rollupDays = orderRollupService.refresh();
+
         Map<String, Object> response = new HashMap<>();
         response.put("seeded", count);
         response.put("totalOrders", totalOrders);
         response.put("durationMs", duration);
         response.put("ordersPerSecond", count * 1000.0 / duration);
+        response.put("rollupDaysRefreshed", Math.max(rollupDays, 0));
+        response.put("rollupRefreshSkipped", rollupDays < 0);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Manually trigger an incremental rollup refresh; full=true first marks
+     * every day with orders dirty to rebuild the whole rollup
+     */
+    @PostMapping("/rollup/refresh")
+    @Timed(value = "admin.rollup.refresh", percentiles = { 0.5, 0.95, 0.99 })
+    public ResponseEntity<Map<String, Object>> refreshRollup(
+            @RequestParam(defaultValue = "false") boolean full) {
+        long startTime = System.currentTimeMillis();
+        if (full) {
+            orderRollupService.markAllDirty();
+        }
+        int days = orderRollupService.refresh();
+        long duration = System.currentTimeMillis() - startTime;
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("daysRefreshed", days);
+        response.put("skipped", days < 0);
+        response.put("durationMs", duration);
 
         return ResponseEntity.ok(response);
     }
@@ -1,12 +1,18 @@
 package com.stafflabs.controller;
 
+import com.stafflabs.config.RollupConfig;
+import com.stafflabs.domain.DailyOrderRollup;
+import com.stafflabs.service.OrderRollupService;
 import com.stafflabs.service.OrderService;
 import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -18,6 +24,8 @@ import java.util.Map;
 public class DatabaseController {
 
     private final OrderService orderService;
+    private final OrderRollupService orderRollupService;
+    private final RollupConfig rollupConfig;
 
     /**
      * Slow query endpoint - GROUP BY on unindexed columns
@@ -36,4 +44,46 @@ public class DatabaseController {
 
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Time-series endpoint - reads per-day/per-status totals from the rollup
+     * table, so latency does not grow with order volume
+     */
+    @GetMapping("/timeseries")
+    @Timed(value = "api.db.timeseries", percentiles = { 0.5, 0.95, 0.99 })
+    public ResponseEntity<Map<String, Object>> timeSeries(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String status) {
+
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+
+        // Validate input
+        if (start.isAfter(end)) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "'from' must not be after 'to'"));
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= rollupConfig.getMaxRangeDays()) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "Range must not exceed " + rollupConfig.getMaxRangeDays() + " days"));
+        }
+
+        List<DailyOrderRollup> points = orderRollupService.getTimeSeries(start, end, status);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("from", start);
+        response.put("to", end);
+        response.put("status", status != null ? status : "ALL");
+        response.put("resultCount", points.size());
+        response.put("points", points.stream()
+                .map(p -> Map.of(
+                        "date", p.getRollupDate(),
+                        "status", p.getStatus(),
+                        "orderCount", p.getOrderCount(),
+                        "revenue", p.getTotalRevenue()))
+                .toList());
+
+        return ResponseEntity.ok(response);
+    }
 }
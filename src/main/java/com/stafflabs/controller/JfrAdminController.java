@@ -0,0 +1,78 @@
+package com.stafflabs.controller;
+
+import com.stafflabs.service.JfrRecordingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Admin controller for on-demand JFR recordings during an incident.
+ */
+@RestController
+@RequestMapping("/admin/jfr")
+@RequiredArgsConstructor
+@Slf4j
+public class JfrAdminController {
+
+    private final JfrRecordingService jfrRecordingService;
+
+    /**
+     * Start a time-boxed recording.
+     *
+     * @param seconds  recording length, bounded by app.jfr.max-recording-seconds
+     * @param settings "default" (low overhead) or "profile" (more detail)
+     */
+    @PostMapping("/recording")
+    public ResponseEntity<Map<String, Object>> startRecording(
+            @RequestParam(defaultValue = "60") int seconds,
+            @RequestParam(defaultValue = "default") String settings) {
+
+        try {
+            JfrRecordingService.RecordingInfo info = jfrRecordingService.start(seconds, settings);
+            return ResponseEntity.accepted().body(Map.of(
+                    "message", "Recording started, download from /admin/jfr/recording when CLOSED",
+                    "recording", info));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(409).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Status of the latest recording.
+     */
+    @GetMapping("/recording/status")
+    public ResponseEntity<Map<String, Object>> recordingStatus() {
+        return jfrRecordingService.status()
+                .<ResponseEntity<Map<String, Object>>>map(info -> ResponseEntity.ok(Map.of("recording", info)))
+                .orElseGet(() -> ResponseEntity.ok(Map.of("message", "No recording has been started")));
+    }
+
+    /**
+     * Download the latest recording once JFR has written and closed it.
+     */
+    @GetMapping("/recording")
+    public ResponseEntity<Resource> downloadRecording() {
+        Optional<Path> file = jfrRecordingService.completedFile();
+        if (file.isEmpty()) {
+            return ResponseEntity.status(409).build();
+        }
+
+        log.info("Serving JFR recording {}", file.get());
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + file.get().getFileName() + "\"")
+                .body(new FileSystemResource(file.get()));
+    }
+}
@@ -0,0 +1,121 @@
+package com.stafflabs.controller;
+
+import com.stafflabs.domain.Order;
+import com.stafflabs.service.OrderIngestService;
+import com.stafflabs.service.OrderService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
+@RestController
+@RequestMapping("/api/orders")
+@RequiredArgsConstructor
+@Slf4j
+public class OrderController {
+
+    private final OrderIngestService orderIngestService;
+    private final OrderService orderService;
+
+    /**
+     * Order ingestion endpoint - inserts are group-committed in micro-batches.
+     * The response is sent once the order's batch has committed; the request
+     * thread is released while waiting.
+     */
+    @PostMapping
+    @Timed(value = "api.orders.create", percentiles = { 0.5, 0.95, 0.99 })
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> createOrder(
+            @Valid @RequestBody CreateOrderRequest request) {
+
+        OrderIngestService.NewOrder order = new OrderIngestService.NewOrder(
+                request.customerEmail(), request.customerName(), request.productSku(),
+                request.productName(), request.quantity(), request.unitPrice());
+
+        return orderIngestService.submit(order)
+                .thenApply(created -> {
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("orderNumber", created.orderNumber());
+                    response.put("status", created.status());
+                    response.put("totalAmount", created.totalAmount());
+                    response.put("createdAt", created.createdAt());
+                    return ResponseEntity.status(201).body(response);
+                })
+                .exceptionally(this::toErrorResponse);
+    }
+
+    /**
+     * Order lookup - lets clients confirm an order whose commit timed out
+     */
+    @GetMapping("/{orderNumber}")
+    @Timed(value = "api.orders.get", percentiles = { 0.5, 0.95, 0.99 })
+    public ResponseEntity<Map<String, Object>> getOrder(@PathVariable String orderNumber) {
+        Optional<Order> order = orderService.findByOrderNumber(orderNumber);
+        if (order.isEmpty()) {
+            return ResponseEntity.status(404).body(Map.of(
+                    "error", "Order " + orderNumber + " not found"));
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("orderNumber", order.get().getOrderNumber());
+        response.put("status", order.get().getStatus());
+        response.put("totalAmount", order.get().getTotalAmount());
+        response.put("createdAt", order.get().getCreatedAt());
+
+        return ResponseEntity.ok(response);
+    }
+
+    private ResponseEntity<Map<String, Object>> toErrorResponse(Throwable t) {
+        Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+
+        // Queued but unconfirmed: the order may still be stored, so a retry
+        // would risk a duplicate. Hand back the order number to check instead.
+        if (cause instanceof OrderIngestService.CommitTimeoutException timeout) {
+            log.warn("Order commit not confirmed in time: {}", timeout.getOrderNumber());
+            return ResponseEntity.status(202).body(Map.of(
+                    "status", "accepted",
+                    "orderNumber", timeout.getOrderNumber(),
+                    "message", "Order queued but commit not yet confirmed; do not retry, check GET /api/orders/"
+                            + timeout.getOrderNumber()));
+        }
+
+        // Never queued, safe to retry
+        if (cause instanceof RejectedExecutionException) {
+            log.warn("Order not accepted: {}", cause.toString());
+            return ResponseEntity.status(503).body(Map.of(
+                    "status", "error",
+                    "message", "Order ingestion overloaded, retry later"));
+        }
+
+        log.error("Order ingestion failed", cause);
+        return ResponseEntity.status(500).body(Map.of(
+                "status", "error",
+                "message", "Order could not be stored"));
+    }
+
+    public record CreateOrderRequest(
+            @NotBlank @Email @Size(max = 255) String customerEmail,
+            @NotBlank @Size(max = 255) String customerName,
+            @NotBlank @Size(max = 100) String productSku,
+            @NotBlank @Size(max = 500) String productName,
+            @Min(1) @Max(1000) int quantity,
+            @NotNull @DecimalMin("0.01") @Digits(integer = 5, fraction = 2) BigDecimal unitPrice) {
+    }
+}
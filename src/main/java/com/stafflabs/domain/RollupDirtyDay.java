@@ -0,0 +1,31 @@
+package com.stafflabs.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * A day whose rollup must be recomputed. Written in the same transaction as
+ * the orders that touched it, so it becomes visible exactly when they do.
+ * Deliberately not unique per day: each writer's row survives until a refresh
+ * that can see its orders consumes it.
+ */
+@Entity
+@Table(name = "rollup_dirty_day")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RollupDirtyDay {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "rollup_date", nullable = false)
+    private LocalDate rollupDate;
+}
@@ -0,0 +1,17 @@
+package com.stafflabs.repository;
+
+import com.stafflabs.domain.DailyOrderRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyOrderRollupRepository extends JpaRepository<DailyOrderRollup, Long> {
+
+    List<DailyOrderRollup> findByRollupDateBetweenOrderByRollupDateAscStatusAsc(LocalDate from, LocalDate to);
+
+    List<DailyOrderRollup> findByRollupDateBetweenAndStatusOrderByRollupDateAsc(LocalDate from, LocalDate to,
+            String status);
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
@@ -23,4 +24,6 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
             ORDER BY totalRevenue DESC
             """)
     List<Object[]> findOrderStatsByCustomerAndStatus();
+
+    Optional<Order> findByOrderNumber(String orderNumber);
 }
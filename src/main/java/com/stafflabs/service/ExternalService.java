@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
 
 import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
@@ -18,9 +19,12 @@ public class ExternalService {
     private final MeterRegistry meterRegistry;
     private final RestClient restClient;
     private final com.stafflabs.config.MockConfig mockConfig;
+    private final com.stafflabs.config.ExternalServiceConfig externalServiceConfig;
 
     /**
-     * Simulates calling an external service with jitter and random failures
+     * Calls the external service with jitter and random failures.
+     * In SIMULATED mode the jitter and failures happen in-process; in HTTP mode
+     * the call goes through the pooled RestClient to the configured URL.
      * Uses virtual threads if available (Java 21)
      */
     @io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker(name = "externalService", fallbackMethod = "fallback")
@@ -28,6 +32,10 @@ public class ExternalService {
     @io.github.resilience4j.bulkhead.annotation.Bulkhead(name = "externalService", type = io.github.resilience4j.bulkhead.annotation.Bulkhead.Type.SEMAPHORE)
     @io.github.resilience4j.ratelimiter.annotation.RateLimiter(name = "externalService")
     public String callExternalService() {
+        if (externalServiceConfig.getMode() == com.stafflabs.config.ExternalServiceConfig.Mode.HTTP) {
+            return callOverHttp();
+        }
+
         Timer.Sample sample = Timer.start(meterRegistry);
 
         try {
@@ -63,6 +71,32 @@ public class ExternalService {
         }
     }
 
+    /**
+     * Real network call; 5xx and I/O errors surface as RuntimeExceptions so the
+     * Resilience4j retry and circuit breaker treat them like simulated failures
+     */
+    private String callOverHttp() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        try {
+            String response = restClient.get()
+                    .uri(externalServiceConfig.getUrl())
+                    .retrieve()
+                    .body(String.class);
+
+            meterRegistry.counter("external.service.success").increment();
+            sample.stop(meterRegistry.timer("external.service.duration"));
+
+            log.debug("External service HTTP call succeeded");
+            return response;
+
+        } catch (RestClientException e) {
+            meterRegistry.counter("external.service.failures").increment();
+            log.warn("External service HTTP call failed: {}", e.getMessage());
+            throw e;
+        }
+    }
+
     public String fallback(Throwable t) {
         log.error("External service fallback triggered. Reason: {}", t.getMessage());
         meterRegistry.counter("external.service.fallback").increment();
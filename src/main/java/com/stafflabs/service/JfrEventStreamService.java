@@ -0,0 +1,126 @@
+package com.stafflabs.service;
+
+import com.stafflabs.config.JfrConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Streams selected JDK Flight Recorder events into Micrometer so latency
+ * regressions on /api/cpu or /api/db/search can be tied to a cause: GC pauses,
+ * safepoints, monitor contention, virtual-thread pinning or allocation rate.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JfrEventStreamService implements SmartLifecycle {
+
+    private final JfrConfig jfrConfig;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicReference<Double> jvmUserCpu = new AtomicReference<>(0.0);
+    private final AtomicReference<Double> jvmSystemCpu = new AtomicReference<>(0.0);
+    private final AtomicReference<Double> machineCpu = new AtomicReference<>(0.0);
+
+    private volatile RecordingStream stream;
+
+    @Override
+    public void start() {
+        if (!jfrConfig.isStreamingEnabled()) {
+            log.info("JFR event streaming disabled");
+            return;
+        }
+
+        RecordingStream recordingStream = new RecordingStream();
+        // Events are consumed as they arrive; only keep a small buffer
+        recordingStream.setMaxAge(Duration.ofSeconds(10));
+
+        recordingStream.enable("jdk.GarbageCollection");
+        recordingStream.onEvent("jdk.GarbageCollection", this::onGarbageCollection);
+
+        recordingStream.enable("jdk.SafepointBegin")
+                .withThreshold(Duration.ofMillis(jfrConfig.getSafepointThresholdMs()));
+        recordingStream.onEvent("jdk.SafepointBegin", event -> meterRegistry
+                .timer("jfr.safepoint.duration").record(event.getDuration()));
+
+        recordingStream.enable("jdk.JavaMonitorEnter")
+                .withThreshold(Duration.ofMillis(jfrConfig.getLockContentionThresholdMs()))
+                .withoutStackTrace();
+        recordingStream.onEvent("jdk.JavaMonitorEnter", this::onMonitorEnter);
+
+        recordingStream.enable("jdk.VirtualThreadPinned")
+                .withThreshold(Duration.ofMillis(jfrConfig.getPinnedThresholdMs()))
+                .withoutStackTrace();
+        recordingStream.onEvent("jdk.VirtualThreadPinned", event -> meterRegistry
+                .timer("jfr.virtual.thread.pinned").record(event.getDuration()));
+
+        recordingStream.enable("jdk.ObjectAllocationSample")
+                .with("throttle", jfrConfig.getAllocationSampleRate())
+                .withoutStackTrace();
+        recordingStream.onEvent("jdk.ObjectAllocationSample", event -> meterRegistry
+                .counter("jfr.allocation.sampled.bytes").increment(event.getLong("weight")));
+
+        recordingStream.enable("jdk.CPULoad").withPeriod(Duration.ofSeconds(1));
+        recordingStream.onEvent("jdk.CPULoad", this::onCpuLoad);
+        registerCpuGauge("jvm.user", jvmUserCpu);
+        registerCpuGauge("jvm.system", jvmSystemCpu);
+        registerCpuGauge("machine", machineCpu);
+
+        recordingStream.onError(e -> log.warn("JFR event handler failed", e));
+        recordingStream.startAsync();
+        stream = recordingStream;
+
+        log.info("JFR event streaming started (lock threshold {} ms, pinned threshold {} ms)",
+                jfrConfig.getLockContentionThresholdMs(), jfrConfig.getPinnedThresholdMs());
+    }
+
+    private void onGarbageCollection(RecordedEvent event) {
+        // sumOfPauses excludes concurrent phases, which don't stop request threads
+        meterRegistry.timer("jfr.gc.pause", "collector", event.getString("name"))
+                .record(event.getDuration("sumOfPauses"));
+    }
+
+    private void onMonitorEnter(RecordedEvent event) {
+        String monitorClass = event.getClass("monitorClass") != null
+                ? event.getClass("monitorClass").getName()
+                : "unknown";
+        meterRegistry.timer("jfr.monitor.contention", "monitorClass", monitorClass)
+                .record(event.getDuration());
+    }
+
+    private void onCpuLoad(RecordedEvent event) {
+        jvmUserCpu.set((double) event.getFloat("jvmUser"));
+        jvmSystemCpu.set((double) event.getFloat("jvmSystem"));
+        machineCpu.set((double) event.getFloat("machineTotal"));
+    }
+
+    private void registerCpuGauge(String source, AtomicReference<Double> value) {
+        Gauge.builder("jfr.cpu.load", value, AtomicReference::get)
+                .description("CPU load reported by JFR (0.0 - 1.0)")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recordingStream = stream;
+        if (recordingStream != null) {
+            recordingStream.close();
+            stream = null;
+            log.info("JFR event streaming stopped");
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+}
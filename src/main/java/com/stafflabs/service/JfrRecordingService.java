@@ -0,0 +1,130 @@
+package com.stafflabs.service;
+
+import com.stafflabs.config.JfrConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Time-boxed, full JFR recordings triggered during an incident.
+ * Only one recording exists at a time, which bounds both overhead and disk use;
+ * starting a new one discards the previous file.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JfrRecordingService {
+
+    private static final Set<String> ALLOWED_SETTINGS = Set.of("default", "profile");
+
+    private final JfrConfig jfrConfig;
+    private final MeterRegistry meterRegistry;
+
+    private Recording current;
+    private Path currentFile;
+
+    /**
+     * Starts a recording that stops and dumps itself after the given duration.
+     *
+     * @param settings JFR settings name: "default" (~1% overhead) or "profile"
+     */
+    public synchronized RecordingInfo start(int durationSeconds, String settings) {
+        if (durationSeconds < 1 || durationSeconds > jfrConfig.getMaxRecordingSeconds()) {
+            throw new IllegalArgumentException(
+                    "Duration must be between 1 and " + jfrConfig.getMaxRecordingSeconds() + " seconds");
+        }
+        if (!ALLOWED_SETTINGS.contains(settings)) {
+            throw new IllegalArgumentException("Settings must be one of " + ALLOWED_SETTINGS);
+        }
+        if (current != null && current.getState() == RecordingState.RUNNING) {
+            throw new IllegalStateException("A recording is already running: " + current.getName());
+        }
+
+        discardCurrent();
+
+        try {
+            Path file = Files.createTempFile("staff-labs-", ".jfr");
+            Recording recording = new Recording(Configuration.getConfiguration(settings));
+            recording.setName("staff-labs-incident-" + Instant.now().getEpochSecond());
+            recording.setToDisk(true);
+            recording.setDuration(Duration.ofSeconds(durationSeconds));
+            // JFR writes the file itself when the duration elapses, then closes the recording
+            recording.setDestination(file);
+            recording.start();
+
+            current = recording;
+            currentFile = file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create JFR recording file", e);
+        } catch (ParseException e) {
+            throw new IllegalStateException("Invalid built-in JFR configuration: " + settings, e);
+        }
+
+        meterRegistry.counter("jfr.recording.started", "settings", settings).increment();
+        log.warn("Started JFR recording {} for {} s with '{}' settings", current.getName(), durationSeconds,
+                settings);
+
+        return info(current);
+    }
+
+    public synchronized Optional<RecordingInfo> status() {
+        return Optional.ofNullable(current).map(this::info);
+    }
+
+    /**
+     * Returns the finished recording file once JFR has written it. With a
+     * destination set, JFR marks the recording STOPPED before dumping and
+     * CLOSED only after the file is complete, so STOPPED is not enough.
+     */
+    public synchronized Optional<Path> completedFile() {
+        if (current == null || current.getState() != RecordingState.CLOSED) {
+            return Optional.empty();
+        }
+        return Optional.of(currentFile);
+    }
+
+    /**
+     * Stops any running recording and deletes its temp file.
+     */
+    @PreDestroy
+    public synchronized void shutdown() {
+        discardCurrent();
+    }
+
+    private void discardCurrent() {
+        if (current == null) {
+            return;
+        }
+        current.close();
+        try {
+            Files.deleteIfExists(currentFile);
+        } catch (IOException e) {
+            log.warn("Failed to delete previous JFR recording {}", currentFile, e);
+        }
+        current = null;
+        currentFile = null;
+    }
+
+    private RecordingInfo info(Recording recording) {
+        return new RecordingInfo(recording.getName(), recording.getState().name(),
+                recording.getStartTime(), recording.getDuration());
+    }
+
+    public record RecordingInfo(String name, String state, Instant startTime, Duration duration) {
+    }
+}
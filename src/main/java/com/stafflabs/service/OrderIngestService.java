@@ -0,0 +1,320 @@
+package com.stafflabs.service;
+
+import com.stafflabs.config.IngestConfig;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Order ingestion with group commit.
+ *
+ * Callers enqueue orders and get a future; a single flusher thread drains the
+ * queue into micro-batches and writes each batch with one JDBC batch and one
+ * commit. A future completes only after its batch has committed, so a
+ * successful response means the order is durable. With a 5-connection pool
+ * this turns N round-trips and N commits into roughly N / batch-size.
+ *
+ * A failed batch rolls back as a whole and fails every caller in it.
+ */
+@Service
+@Slf4j
+public class OrderIngestService implements SmartLifecycle {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO orders (order_number, customer_email, customer_name, product_sku,
+                               product_name, quantity, unit_price, total_amount, status, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final IngestConfig ingestConfig;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderRollupService orderRollupService;
+    private final MeterRegistry meterRegistry;
+
+    private final BlockingQueue<PendingOrder> queue;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer flushTimer;
+    private final Timer commitWaitTimer;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public OrderIngestService(IngestConfig ingestConfig, JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate, OrderRollupService orderRollupService,
+            MeterRegistry meterRegistry) {
+        this.ingestConfig = ingestConfig;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.orderRollupService = orderRollupService;
+        this.meterRegistry = meterRegistry;
+        this.queue = new ArrayBlockingQueue<>(ingestConfig.getQueueCapacity());
+
+        this.batchSizeSummary = DistributionSummary.builder("orders.ingest.batch.size")
+                .description("Orders per group commit")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("orders.ingest.flush.duration")
+                .description("Time to insert and commit one batch")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.commitWaitTimer = Timer.builder("orders.ingest.commit.wait")
+                .description("Time from enqueue until the order's batch committed")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("orders.ingest.queue.depth", queue, BlockingQueue::size)
+                .description("Orders waiting to be flushed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues an order for the next batch.
+     *
+     * @return future completed once the batch containing the order has
+     *         committed; completed exceptionally with
+     *         RejectedExecutionException if the order was never queued (safe to
+     *         retry), with {@link CommitTimeoutException} if the commit was not
+     *         confirmed in time (the order may still commit, so not safe to
+     *         retry), or with the batch failure
+     */
+    public CompletableFuture<CreatedOrder> submit(NewOrder order) {
+        CompletableFuture<CreatedOrder> result = new CompletableFuture<>();
+
+        if (!running) {
+            result.completeExceptionally(new RejectedExecutionException("Order ingestion is not running"));
+            return result;
+        }
+
+        PendingOrder pending = new PendingOrder(order, newOrderNumber(), LocalDateTime.now(), System.nanoTime(),
+                result);
+        if (!queue.offer(pending)) {
+            meterRegistry.counter("orders.ingest.rejected").increment();
+            result.completeExceptionally(new RejectedExecutionException("Order ingestion queue is full"));
+            return result;
+        }
+        // stop() may have run between the check above and the offer; if the
+        // flusher has already exited, take the order back instead of orphaning it
+        if (!running && queue.remove(pending)) {
+            result.completeExceptionally(new RejectedExecutionException("Order ingestion is not running"));
+            return result;
+        }
+
+        return result.orTimeout(ingestConfig.getCommitTimeoutMs(), TimeUnit.MILLISECONDS)
+                .exceptionally(t -> {
+                    Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+                    if (cause instanceof TimeoutException) {
+                        meterRegistry.counter("orders.ingest.commit.timeouts").increment();
+                        throw new CommitTimeoutException(pending.orderNumber());
+                    }
+                    throw t instanceof CompletionException completion ? completion : new CompletionException(t);
+                });
+    }
+
+    private void runFlusher() {
+        List<PendingOrder> batch = new ArrayList<>(ingestConfig.getMaxBatchSize());
+
+        try {
+            while (running || !queue.isEmpty()) {
+                try {
+                    PendingOrder first = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+
+                    // Collect more orders until the batch is full or the window closes
+                    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ingestConfig.getMaxDelayMs());
+                    while (batch.size() < ingestConfig.getMaxBatchSize()) {
+                        long remaining = deadline - System.nanoTime();
+                        if (remaining <= 0) {
+                            break;
+                        }
+                        PendingOrder next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                        if (next == null) {
+                            break;
+                        }
+                        batch.add(next);
+                        queue.drainTo(batch, ingestConfig.getMaxBatchSize() - batch.size());
+                    }
+
+                    flush(batch);
+
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    batch.forEach(p -> p.result().completeExceptionally(e));
+                    break;
+                } catch (Throwable t) {
+                    // Keep the only flusher alive; fail just this batch
+                    meterRegistry.counter("orders.ingest.failed").increment(batch.size());
+                    log.error("Order batch of {} failed unexpectedly", batch.size(), t);
+                    batch.forEach(p -> p.result().completeExceptionally(t));
+                } finally {
+                    batch.clear();
+                }
+            }
+        } finally {
+            rejectQueued();
+            log.info("Order batch flusher stopped");
+        }
+    }
+
+    /**
+     * Fails every order still in the queue as never queued, so callers get a
+     * retryable 503 instead of waiting out the commit timeout.
+     */
+    private void rejectQueued() {
+        List<PendingOrder> leftover = new ArrayList<>();
+        queue.drainTo(leftover);
+        if (leftover.isEmpty()) {
+            return;
+        }
+        meterRegistry.counter("orders.ingest.rejected").increment(leftover.size());
+        log.warn("Rejecting {} queued orders on shutdown", leftover.size());
+        RejectedExecutionException rejected = new RejectedExecutionException("Order ingestion stopped");
+        leftover.forEach(p -> p.result().completeExceptionally(rejected));
+    }
+
+    private void flush(List<PendingOrder> batch) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, pending) -> {
+                    NewOrder order = pending.order();
+                    ps.setString(1, pending.orderNumber());
+                    ps.setString(2, order.customerEmail());
+                    ps.setString(3, order.customerName());
+                    ps.setString(4, order.productSku());
+                    ps.setString(5, order.productName());
+                    ps.setInt(6, order.quantity());
+                    ps.setBigDecimal(7, order.unitPrice());
+                    ps.setBigDecimal(8, order.totalAmount());
+                    ps.setString(9, "PENDING");
+                    ps.setObject(10, pending.createdAt());
+                });
+                orderRollupService.markDirty(batch.stream()
+                        .map(pending -> pending.createdAt().toLocalDate())
+                        .collect(Collectors.toSet()));
+            });
+        } catch (RuntimeException e) {
+            meterRegistry.counter("orders.ingest.failed").increment(batch.size());
+            log.error("Order batch of {} failed, rolling back", batch.size(), e);
+            batch.forEach(p -> p.result().completeExceptionally(e));
+            return;
+        }
+
+        sample.stop(flushTimer);
+        batchSizeSummary.record(batch.size());
+        meterRegistry.counter("orders.ingest.committed").increment(batch.size());
+
+        long now = System.nanoTime();
+        for (PendingOrder pending : batch) {
+            commitWaitTimer.record(now - pending.enqueuedAtNanos(), TimeUnit.NANOSECONDS);
+            pending.result().complete(new CreatedOrder(pending.orderNumber(), "PENDING",
+                    pending.order().totalAmount(), pending.createdAt()));
+        }
+
+        log.debug("Committed order batch of {}", batch.size());
+    }
+
+    private static String newOrderNumber() {
+        return "ORD-" + UUID.randomUUID().toString().toUpperCase();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        flusher = Thread.ofPlatform().name("order-batch-flusher").start(this::runFlusher);
+        log.info("Order batch flusher started (maxBatchSize={}, maxDelayMs={})",
+                ingestConfig.getMaxBatchSize(), ingestConfig.getMaxDelayMs());
+    }
+
+    /**
+     * Stops accepting orders and flushes whatever is already queued. Orders the
+     * flusher could not reach within the join timeout are rejected.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        if (flusher != null) {
+            try {
+                flusher.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (flusher.isAlive()) {
+                log.warn("Order batch flusher did not stop within 10s");
+            }
+            flusher = null;
+        }
+        rejectQueued();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Start before and stop after the web server, so requests are never
+     * accepted without a flusher to serve them.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    /**
+     * The order was queued but its commit was not confirmed within the
+     * timeout. It keeps its assigned order number and may still be stored.
+     */
+    public static class CommitTimeoutException extends RuntimeException {
+
+        private final String orderNumber;
+
+        public CommitTimeoutException(String orderNumber) {
+            super("Commit of order " + orderNumber + " not confirmed in time");
+            this.orderNumber = orderNumber;
+        }
+
+        public String getOrderNumber() {
+            return orderNumber;
+        }
+    }
+
+    public record NewOrder(String customerEmail, String customerName, String productSku, String productName,
+            int quantity, BigDecimal unitPrice) {
+
+        public BigDecimal totalAmount() {
+            return unitPrice.multiply(BigDecimal.valueOf(quantity));
+        }
+    }
+
+    public record CreatedOrder(String orderNumber, String status, BigDecimal totalAmount,
+            LocalDateTime createdAt) {
+    }
+
+    private record PendingOrder(NewOrder order, String orderNumber, LocalDateTime createdAt,
+            long enqueuedAtNanos, CompletableFuture<CreatedOrder> result) {
+    }
+}
@@ -0,0 +1,165 @@
+package com.stafflabs.service;
+
+import com.stafflabs.config.RollupConfig;
+import com.stafflabs.domain.DailyOrderRollup;
+import com.stafflabs.repository.DailyOrderRollupRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Maintains the per-day/per-status order rollup.
+ *
+ * Every writer records the days it touched in {@code rollup_dirty_day} inside
+ * its own transaction (see {@link #markDirty}), so a dirty day becomes visible
+ * together with its orders. Each refresh consumes the visible dirty days and
+ * recomputes only those days from the {@code created_at} index. Unlike an
+ * order-id watermark, this stays correct when writers commit out of id order
+ * (a long /admin/seed next to POST /api/orders). Dashboards then read the
+ * small rollup table instead of scanning {@code orders}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderRollupService {
+
+    // Arbitrary, stable key so only one instance refreshes at a time
+    private static final long REFRESH_LOCK_KEY = 0x5354_4146_524F_4C4CL;
+
+    private final DailyOrderRollupRepository rollupRepository;
+    private final RollupConfig rollupConfig;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Scheduled incremental refresh.
+     */
+    @Scheduled(fixedDelayString = "${app.rollup.refresh-interval-ms:60000}", initialDelayString = "${app.rollup.refresh-interval-ms:60000}")
+    public void scheduledRefresh() {
+        if (!rollupConfig.isScheduledRefreshEnabled()) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.error("Scheduled rollup refresh failed", e);
+            meterRegistry.counter("rollup.refresh.failures").increment();
+        }
+    }
+
+    /**
+     * Records days whose rollup is stale. Must run in the writer's transaction
+     * so the marks commit (or roll back) together with the orders.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void markDirty(Collection<LocalDate> days) {
+        if (days.isEmpty()) {
+            return;
+        }
+        List<LocalDate> distinctDays = List.copyOf(new TreeSet<>(days));
+        jdbcTemplate.batchUpdate("INSERT INTO rollup_dirty_day (rollup_date) VALUES (?)",
+                distinctDays, distinctDays.size(), (ps, day) -> ps.setObject(1, day));
+    }
+
+    /**
+     * Marks every day that has orders dirty, e.g. for a database that predates
+     * dirty-day tracking. The next refresh rebuilds the whole rollup.
+     *
+     * @return number of days marked
+     */
+    @Transactional
+    public int markAllDirty() {
+        return jdbcTemplate.update("""
+                INSERT INTO rollup_dirty_day (rollup_date)
+                SELECT DISTINCT CAST(created_at AS date) FROM orders
+                """);
+    }
+
+    /**
+     * Recomputes every day currently marked dirty.
+     *
+     * Runs in a TransactionTemplate rather than under @Transactional so the
+     * advisory lock and the rewrite are atomic even when called internally
+     * from {@link #scheduledRefresh()}.
+     *
+     * @return number of days recomputed, or -1 if another refresh holds the lock
+     */
+    public int refresh() {
+        Integer days = transactionTemplate.execute(status -> refreshInTransaction());
+        return days != null ? days : 0;
+    }
+
+    private int refreshInTransaction() {
+        Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class,
+                REFRESH_LOCK_KEY);
+        if (!Boolean.TRUE.equals(locked)) {
+            log.debug("Rollup refresh already running elsewhere, skipping");
+            meterRegistry.counter("rollup.refresh.skipped").increment();
+            return -1;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        // Only committed marks are consumed; their orders committed with them,
+        // so the recompute below sees them. Marks committed later stay queued.
+        List<LocalDate> days = List.copyOf(new TreeSet<>(jdbcTemplate.queryForList(
+                "DELETE FROM rollup_dirty_day RETURNING rollup_date", LocalDate.class)));
+
+        if (days.isEmpty()) {
+            sample.stop(meterRegistry.timer("rollup.refresh.duration"));
+            log.debug("Rollup up to date");
+            return 0;
+        }
+
+        jdbcTemplate.batchUpdate("DELETE FROM order_daily_rollup WHERE rollup_date = ?",
+                days, days.size(), (ps, day) -> ps.setObject(1, day));
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO order_daily_rollup (rollup_date, status, order_count, total_revenue, refreshed_at)
+                SELECT CAST(? AS date), o.status, COUNT(o.id), SUM(o.total_amount), now()
+                FROM orders o
+                WHERE o.created_at >= ? AND o.created_at < ?
+                GROUP BY o.status
+                """, days, days.size(), (ps, day) -> {
+            ps.setObject(1, day);
+            ps.setObject(2, day.atStartOfDay());
+            ps.setObject(3, day.plusDays(1).atStartOfDay());
+        });
+
+        sample.stop(meterRegistry.timer("rollup.refresh.duration"));
+        meterRegistry.counter("rollup.refresh.days").increment(days.size());
+
+        log.info("Rollup refreshed {} days ({} .. {})", days.size(), days.get(0), days.get(days.size() - 1));
+        return days.size();
+    }
+
+    /**
+     * Reads the daily time series from the rollup table.
+     *
+     * @param status optional status filter; all statuses when null
+     */
+    @Transactional(readOnly = true)
+    public List<DailyOrderRollup> getTimeSeries(LocalDate from, LocalDate to, String status) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        List<DailyOrderRollup> points = status == null
+                ? rollupRepository.findByRollupDateBetweenOrderByRollupDateAscStatusAsc(from, to)
+                : rollupRepository.findByRollupDateBetweenAndStatusOrderByRollupDateAsc(from, to, status);
+
+        sample.stop(meterRegistry.timer("rollup.query.duration"));
+        return points;
+    }
+}
@@ -1,5 +1,6 @@
 package com.stafflabs.service;
 
+import com.stafflabs.domain.Order;
 import com.stafflabs.repository.OrderRepository;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
@@ -11,9 +12,13 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Random;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -25,6 +30,7 @@ public class OrderService {
     private final OrderRepository orderRepository;
     private final JdbcTemplate jdbcTemplate;
     private final MeterRegistry meterRegistry;
+    private final OrderRollupService orderRollupService;
 
     private static final String[] STATUSES = { "PENDING", "PROCESSING", "SHIPPED", "DELIVERED", "CANCELLED" };
     private static final String[] PRODUCTS = {
@@ -48,6 +54,9 @@ public class OrderService {
                 VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
                 """;
 
+        // Days written by this seed, marked dirty for the rollup in the same transaction
+        Set<LocalDate> touchedDays = new HashSet<>();
+
         int batchSize = 1000;
         int totalBatches = (count + batchSize - 1) / batchSize;
 
@@ -74,6 +83,7 @@ public class OrderService {
                     BigDecimal totalAmount = unitPrice.multiply(BigDecimal.valueOf(quantity));
                     String status = STATUSES[rand.nextInt(STATUSES.length)];
                     LocalDateTime createdAt = LocalDateTime.now().minusDays(rand.nextInt(365));
+                    touchedDays.add(createdAt.toLocalDate());
 
                     ps.setString(1, orderNumber);
                     ps.setString(2, customerEmail);
@@ -98,6 +108,8 @@ public class OrderService {
             }
         }
 
+        orderRollupService.markDirty(touchedDays);
+
         sample.stop(meterRegistry.timer("db.seed.duration"));
         log.info("Completed seeding {} orders", count);
 
@@ -120,4 +132,12 @@ public class OrderService {
 
         return results;
     }
+
+    /**
+     * Lookup by order number (backed by the unique index)
+     */
+    @Transactional(readOnly = true)
+    public Optional<Order> findByOrderNumber(String orderNumber) {
+        return orderRepository.findByOrderNumber(orderNumber);
+    }
 }
@@ -0,0 +1,40 @@
+-- Baseline schema, matching what Hibernate ddl-auto=update produced before
+-- migrations were introduced. IF NOT EXISTS keeps it safe on existing databases
+-- (combined with spring.flyway.baseline-on-migrate).
+
+CREATE TABLE IF NOT EXISTS orders (
+    id             BIGSERIAL PRIMARY KEY,
+    order_number   VARCHAR(50)    NOT NULL UNIQUE,
+    customer_email VARCHAR(255)   NOT NULL,
+    customer_name  VARCHAR(255)   NOT NULL,
+    product_sku    VARCHAR(100)   NOT NULL,
+    product_name   VARCHAR(500)   NOT NULL,
+    quantity       INTEGER        NOT NULL,
+    unit_price     NUMERIC(10, 2) NOT NULL,
+    total_amount   NUMERIC(10, 2) NOT NULL,
+    status         VARCHAR(50)    NOT NULL,
+    created_at     TIMESTAMP(6)   NOT NULL
+);
+
+-- Deliberately no indexes on status / customer_email (slow query lab)
+CREATE INDEX IF NOT EXISTS idx_orders_created_at ON orders (created_at);
+
+CREATE TABLE IF NOT EXISTS order_daily_rollup (
+    id            BIGSERIAL PRIMARY KEY,
+    rollup_date   DATE           NOT NULL,
+    status        VARCHAR(50)    NOT NULL,
+    order_count   BIGINT         NOT NULL,
+    total_revenue NUMERIC(19, 2) NOT NULL,
+    refreshed_at  TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT uk_order_daily_rollup_day_status UNIQUE (rollup_date, status)
+);
+
+-- Days whose rollup is stale, recorded in each writer's own transaction
+CREATE TABLE IF NOT EXISTS rollup_dirty_day (
+    id          BIGSERIAL PRIMARY KEY,
+    rollup_date DATE NOT NULL
+);
+
+-- Existing databases: recompute every day that has orders on the first refresh
+INSERT INTO rollup_dirty_day (rollup_date)
+SELECT DISTINCT CAST(created_at AS date) FROM orders;
@@ -0,0 +1,173 @@
+package com.stafflabs.service;
+
+import com.stafflabs.config.IngestConfig;
+import com.stafflabs.service.OrderIngestService.CreatedOrder;
+import com.stafflabs.service.OrderIngestService.NewOrder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class OrderIngestServiceTest {
+
+    private final IngestConfig ingestConfig = new IngestConfig();
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final OrderRollupService orderRollupService = mock(OrderRollupService.class);
+
+    // Size of every batch handed to batchUpdate, in flush order
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    private OrderIngestService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ingestConfig.setCommitTimeoutMs(TimeUnit.MINUTES.toMillis(1));
+
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        doAnswer(invocation -> {
+            batchSizes.add(invocation.<Collection<?>>getArgument(1).size());
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (service != null && service.isRunning()) {
+            service.stop();
+        }
+    }
+
+    @Test
+    void flushesWhenBatchIsFull() throws Exception {
+        ingestConfig.setMaxBatchSize(3);
+        ingestConfig.setMaxDelayMs(TimeUnit.MINUTES.toMillis(1));
+        start();
+
+        List<CompletableFuture<CreatedOrder>> futures = submit(3);
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+        assertThat(batchSizes).containsExactly(3);
+        assertThat(futures).allSatisfy(f -> assertThat(f.join().status()).isEqualTo("PENDING"));
+    }
+
+    @Test
+    void flushesWhenDelayElapses() throws Exception {
+        ingestConfig.setMaxBatchSize(100);
+        ingestConfig.setMaxDelayMs(50);
+        start();
+
+        CreatedOrder created = service.submit(newOrder()).get(5, TimeUnit.SECONDS);
+
+        assertThat(batchSizes).containsExactly(1);
+        assertThat(created.orderNumber()).startsWith("ORD-");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void failedBatchFailsEveryOrderInIt() {
+        ingestConfig.setMaxBatchSize(2);
+        ingestConfig.setMaxDelayMs(TimeUnit.MINUTES.toMillis(1));
+        DataIntegrityViolationException failure = new DataIntegrityViolationException("duplicate key");
+        doAnswer(invocation -> {
+            throw failure;
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        start();
+
+        List<CompletableFuture<CreatedOrder>> futures = submit(2);
+
+        assertThat(futures).allSatisfy(f -> assertThatThrownBy(() -> f.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCause(failure));
+    }
+
+    @Test
+    void stopResolvesEveryQueuedOrder() throws Exception {
+        ingestConfig.setMaxBatchSize(10);
+        ingestConfig.setMaxDelayMs(1);
+        start();
+
+        Queue<CompletableFuture<CreatedOrder>> futures = new ConcurrentLinkedQueue<>();
+        AtomicBoolean stopped = new AtomicBoolean();
+        CountDownLatch submitting = new CountDownLatch(4);
+        List<Thread> submitters = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            submitters.add(Thread.ofPlatform().start(() -> {
+                submitting.countDown();
+                while (!stopped.get()) {
+                    futures.add(service.submit(newOrder()));
+                }
+            }));
+        }
+
+        // Submitters keep racing stop() until it has returned
+        submitting.await();
+        Thread.sleep(50);
+        service.stop();
+        stopped.set(true);
+        for (Thread submitter : submitters) {
+            submitter.join(TimeUnit.SECONDS.toMillis(5));
+        }
+
+        assertThat(futures).isNotEmpty().allSatisfy(f -> {
+            assertThat(f).isDone();
+            if (f.isCompletedExceptionally()) {
+                assertThatThrownBy(f::join).hasCauseInstanceOf(RejectedExecutionException.class);
+            }
+        });
+    }
+
+    private void start() {
+        service = new OrderIngestService(ingestConfig, jdbcTemplate, transactionTemplate, orderRollupService,
+                new SimpleMeterRegistry());
+        service.start();
+    }
+
+    private List<CompletableFuture<CreatedOrder>> submit(int count) {
+        List<CompletableFuture<CreatedOrder>> futures = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            futures.add(service.submit(newOrder()));
+        }
+        return futures;
+    }
+
+    private static NewOrder newOrder() {
+        return new NewOrder("jane@example.com", "Jane Doe", "SKU-1", "Widget", 2, new BigDecimal("9.99"));
+    }
+}